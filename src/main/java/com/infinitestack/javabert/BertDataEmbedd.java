@@ -26,39 +26,40 @@ public class BertDataEmbedd {
         String modelPath = args[1]+"/model.onnx";
         String vocabPath = args[1]+"/vocab.txt";
 
-        // Instantiate the embedding engine
-        BertEmbeddingEngine engine = new BertEmbeddingEngine(
+        // Instantiate the embedding engine (closed at the end to release the ONNX Runtime session)
+        try (BertEmbeddingEngine engine = new BertEmbeddingEngine(
                 Paths.get(modelPath),
                 Paths.get(vocabPath)
-        );
+        )) {
+            File inputDir = new File(args[0]);
+            for (int i = 0; i < inputDir.list().length; i++) {
+                String fileName = args[0] + "/" + inputDir.list()[i];
+                System.out.println(fileName);
+                String inputText = new String(Files.readAllBytes(Paths.get(fileName))).toLowerCase();
 
-        File inputDir = new File(args[0]);
-        for (int i = 0; i < inputDir.list().length; i++) {
-            String fileName = args[0] + "/" + inputDir.list()[i];
-            System.out.println(fileName);
-            String inputText = new String(Files.readAllBytes(Paths.get(fileName))).toLowerCase();
+                // Generate the embedding
+                float[] embedding = engine.getEmbedding(inputText);
 
-            // Generate the embedding
-            float[] embedding = engine.getEmbedding(inputText);
+                // Compute MD5 hash of the text for the output file name
+                String md5Hash = computeMD5(inputText);
 
-            // Compute MD5 hash of the text for the output file name
-            String md5Hash = computeMD5(inputText);
+                // Create the JSON object to save
+                EmbeddingJson embeddingJson = new EmbeddingJson(fileName, embedding);
 
-            // Create the JSON object to save
-            EmbeddingJson embeddingJson = new EmbeddingJson(fileName, embedding);
+                // Generate the .json file name based on MD5
+                File outputFile = new File(args[1]+"/" + md5Hash + ".json");
 
-            // Generate the .json file name based on MD5
-            File outputFile = new File(args[1]+"/" + md5Hash + ".json");
+                // Save as JSON
+                ObjectMapper mapper = new ObjectMapper();
+                mapper.writeValue(outputFile, embeddingJson);
 
-            // Save as JSON
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.writeValue(outputFile, embeddingJson);
-
-            // Output information
-            System.out.println("Input text: " + inputText);
-            System.out.println("Generated embedding (dimension: " + embedding.length + ")");
-            System.out.println("Sample values: " + Arrays.toString(Arrays.copyOf(embedding, 10)) + "...");
-            System.out.println("Embedding saved at: " + outputFile.getAbsolutePath());
+                // Output information
+                System.out.println("Input text: " + inputText);
+                System.out.println("Generated embedding (dimension: " + embedding.length + ")");
+                System.out.println("Sample values: " + Arrays.toString(Arrays.copyOf(embedding, 10)) + "...");
+                System.out.println("Embedding saved at: " + outputFile.getAbsolutePath());
+                System.out.println("Process resident memory (RSS): " + ProcessMemory.format(ProcessMemory.residentBytes()));
+            }
         }
     }
 
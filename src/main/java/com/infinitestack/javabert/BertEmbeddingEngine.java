@@ -24,6 +24,7 @@ import java.util.List;
  */
 public class BertEmbeddingEngine implements EmbeddingEngine {
 
+    private final ZooModel<String, float[]> model;
     private final Predictor<String, float[]> predictor;
 
     /**
@@ -51,9 +52,15 @@ public class BertEmbeddingEngine implements EmbeddingEngine {
                 .optEngine("OnnxRuntime")
                 .build();
 
-        // Load the model and create the predictor
-        ZooModel<String, float[]> model = criteria.loadModel();
-        this.predictor = model.newPredictor();
+        // Load the model and create the predictor (both are released in close())
+        this.model = criteria.loadModel();
+        try {
+            this.predictor = model.newPredictor();
+        } catch (RuntimeException e) {
+            // Do not leak the ONNX Runtime session if the predictor cannot be created
+            model.close();
+            throw e;
+        }
     }
 
     /**
@@ -66,6 +73,19 @@ public class BertEmbeddingEngine implements EmbeddingEngine {
         return predictor.predict(text);
     }
 
+    /**
+     * Releases the predictor and the model (and its ONNX Runtime session).
+     * The model is closed even if closing the predictor fails.
+     */
+    @Override
+    public void close() {
+        try {
+            predictor.close();
+        } finally {
+            model.close();
+        }
+    }
+
     /**
      * Custom translator that tokenizes the text and extracts the embedding from the [CLS] token.
      */
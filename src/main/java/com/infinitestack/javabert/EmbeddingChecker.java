@@ -12,8 +12,9 @@ import java.util.List;
  * 2) Generating the query embedding (via EmbeddingEngine),
  * 3) Comparing with stored document embeddings,
  * 4) Returning a ranking of the most relevant documents.
+ * It is also the exact (brute-force) {@link SearchBackend}, used as the reference ranking in benchmarks.
  */
-public class EmbeddingChecker {
+public class EmbeddingChecker implements SearchBackend {
 
     private final EmbeddingEngine engine;
     private final List<DocumentEmbedding> storedDocs;
@@ -28,6 +29,14 @@ public class EmbeddingChecker {
         this.storedDocs = storedDocs;
     }
 
+    /**
+     * Constructor for searching with precomputed query embeddings only.
+     * There is no engine, so check() throws IllegalStateException.
+     */
+    public EmbeddingChecker(List<DocumentEmbedding> storedDocs) {
+        this(null, storedDocs);
+    }
+
     /**
      * Receives a query, generates its embedding, and creates a ranking of the most similar documents.
      *
@@ -35,9 +44,23 @@ public class EmbeddingChecker {
      * @return List of DocumentRanking, sorted by similarity (descending).
      */
     public List<DocumentRanking> check(String query) throws TranslateException {
+        if (engine == null) {
+            throw new IllegalStateException("No EmbeddingEngine configured: use search() with a precomputed query embedding.");
+        }
+
         // 1) Generate the query embedding
         float[] queryEmbedding = engine.getEmbedding(query);
 
+        return rank(queryEmbedding);
+    }
+
+    /**
+     * Compares a query embedding with every stored document.
+     *
+     * @param queryEmbedding Embedding of the query
+     * @return List of DocumentRanking, sorted by similarity (descending).
+     */
+    public List<DocumentRanking> rank(float[] queryEmbedding) {
         // 2) For each stored document, calculate the similarity
         List<DocumentRanking> ranking = new ArrayList<>();
         for (DocumentEmbedding docEmb : storedDocs) {
@@ -51,6 +74,32 @@ public class EmbeddingChecker {
         return ranking;
     }
 
+    @Override
+    public String getName() {
+        return "exact";
+    }
+
+    @Override
+    public List<DocumentRanking> search(float[] queryEmbedding, int k) {
+        // Same scan as rank(), but only the top-k are kept instead of sorting every document
+        TopK top = new TopK(k);
+        int index = 0;
+        for (DocumentEmbedding docEmb : storedDocs) {
+            top.offer(index++, cosineSimilarity(queryEmbedding, docEmb.getEmbedding()));
+        }
+        return top.toRanking(storedDocs::get);
+    }
+
+    @Override
+    public long getMemoryFootprint() {
+        // float[] payload plus the array header of each stored embedding (IDs are shared with the caller)
+        long bytes = 0;
+        for (DocumentEmbedding docEmb : storedDocs) {
+            bytes += 16L + 4L * docEmb.getEmbedding().length;
+        }
+        return bytes;
+    }
+
     /**
      * Example function to calculate cosine similarity between two float[] vectors.
      */
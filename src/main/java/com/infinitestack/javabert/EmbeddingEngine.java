@@ -2,6 +2,36 @@ package com.infinitestack.javabert;
 
 import ai.djl.translate.TranslateException;
 
-public interface EmbeddingEngine {
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Common contract for the embedding engines.
+ * Engines hold native (ONNX Runtime) resources, so they must be closed once they are no longer needed,
+ * preferably with try-with-resources.
+ */
+public interface EmbeddingEngine extends AutoCloseable {
+
     float[] getEmbedding(String text) throws TranslateException;
+
+    /**
+     * Generates the embeddings for a list of texts, in the same order as the input.
+     * Texts are not batched: each one is a separate predict() call, with its own per-call NDManager.
+     *
+     * @param texts Input texts
+     * @return List of embeddings, one per text
+     */
+    default List<float[]> getEmbeddings(List<String> texts) throws TranslateException {
+        List<float[]> embeddings = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            embeddings.add(getEmbedding(text));
+        }
+        return embeddings;
+    }
+
+    /**
+     * Releases the predictor, the model and the ONNX Runtime session held by the engine.
+     */
+    @Override
+    void close();
 }
@@ -0,0 +1,90 @@
+package com.infinitestack.javabert;
+
+import java.util.List;
+
+/**
+ * Compressed brute-force backend: every document embedding is L2-normalized and quantized to int8
+ * with one scale per vector (about 4x less memory than float[]).
+ * The query stays in float, so the score is an approximation of the cosine similarity.
+ * The float vectors are not kept: results carry a DocumentEmbedding with the document ID only (null embedding).
+ */
+public class Int8SearchBackend implements SearchBackend {
+
+    private final String[] docIds;
+    private final int dimension;
+    private final byte[][] codes;
+    private final float[] scales;
+
+    public Int8SearchBackend(List<DocumentEmbedding> storedDocs) {
+        this.docIds = new String[storedDocs.size()];
+        this.dimension = storedDocs.isEmpty() ? 0 : storedDocs.get(0).getEmbedding().length;
+        // One array per document: a single flat array would overflow int indexing on large corpora
+        this.codes = new byte[storedDocs.size()][dimension];
+        this.scales = new float[storedDocs.size()];
+
+        for (int d = 0; d < storedDocs.size(); d++) {
+            float[] v = storedDocs.get(d).getEmbedding();
+            if (v.length != dimension) {
+                throw new IllegalArgumentException("Vectors have different dimensions!");
+            }
+            docIds[d] = storedDocs.get(d).getDocId();
+
+            // Normalize so the dot product approximates cosine similarity
+            float norm = norm(v);
+            float maxAbs = 0f;
+            for (float x : v) {
+                maxAbs = Math.max(maxAbs, Math.abs(x));
+            }
+            if (norm == 0 || maxAbs == 0) {
+                continue; // zero vector: codes and scale stay 0
+            }
+
+            float scale = maxAbs / norm / 127f;
+            byte[] code = codes[d];
+            for (int i = 0; i < dimension; i++) {
+                code[i] = (byte) Math.round(v[i] / norm / scale);
+            }
+            scales[d] = scale;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "int8";
+    }
+
+    @Override
+    public List<DocumentRanking> search(float[] queryEmbedding, int k) {
+        if (queryEmbedding.length != dimension && docIds.length > 0) {
+            throw new IllegalArgumentException("Vectors have different dimensions!");
+        }
+        float queryNorm = norm(queryEmbedding);
+
+        TopK top = new TopK(k);
+        for (int d = 0; d < scales.length; d++) {
+            float dot = 0f;
+            byte[] code = codes[d];
+            for (int i = 0; i < dimension; i++) {
+                dot += queryEmbedding[i] * code[i];
+            }
+            top.offer(d, queryNorm == 0 ? 0f : dot * scales[d] / queryNorm);
+        }
+        return top.toRanking(d -> new DocumentEmbedding(docIds[d], null));
+    }
+
+    @Override
+    public long getMemoryFootprint() {
+        // codes (outer array + one header per document) + scales + the ID references
+        // (the ID strings are shared with the caller's documents)
+        long codeBytes = 16L + 4L * codes.length + (long) codes.length * (16L + dimension);
+        return codeBytes + 16L + 4L * scales.length + 16L + 4L * docIds.length;
+    }
+
+    private static float norm(float[] v) {
+        float sum = 0f;
+        for (float x : v) {
+            sum += x * x;
+        }
+        return (float) Math.sqrt(sum);
+    }
+}
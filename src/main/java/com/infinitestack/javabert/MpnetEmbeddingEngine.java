@@ -26,6 +26,7 @@ import java.util.List;
  */
 public class MpnetEmbeddingEngine implements EmbeddingEngine {
 
+    private final ZooModel<String, float[]> model;
     private final Predictor<String, float[]> predictor;
 
     /**
@@ -54,9 +55,15 @@ public class MpnetEmbeddingEngine implements EmbeddingEngine {
                 .optEngine("OnnxRuntime")
                 .build();
 
-        // Load the model and create the predictor
-        ZooModel<String, float[]> model = criteria.loadModel();
-        this.predictor = model.newPredictor();
+        // Load the model and create the predictor (both are released in close())
+        this.model = criteria.loadModel();
+        try {
+            this.predictor = model.newPredictor();
+        } catch (RuntimeException e) {
+            // Do not leak the ONNX Runtime session if the predictor cannot be created
+            model.close();
+            throw e;
+        }
     }
 
     /**
@@ -69,6 +76,19 @@ public class MpnetEmbeddingEngine implements EmbeddingEngine {
         return predictor.predict(text);
     }
 
+    /**
+     * Releases the predictor and the model (and its ONNX Runtime session).
+     * The model is closed even if closing the predictor fails.
+     */
+    @Override
+    public void close() {
+        try {
+            predictor.close();
+        } finally {
+            model.close();
+        }
+    }
+
     /**
      * Custom translator for all-mpnet-base-v2.
      * It tokenizes the text and, in the post-processing step, applies mean pooling to generate the sentence embedding.
@@ -0,0 +1,50 @@
+package com.infinitestack.javabert;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Helper to read the resident set size (RSS) of the process from /proc/self/status.
+ * RSS covers everything the process has in physical memory: JVM heap pages, thread stacks, GC structures,
+ * direct buffers and ONNX Runtime allocations alike. It does not isolate the memory of ONNX Runtime;
+ * it is only useful to follow the trend of the whole process over a long run.
+ */
+public final class ProcessMemory {
+
+    private static final Path PROC_STATUS = Paths.get("/proc/self/status");
+
+    private ProcessMemory() {
+    }
+
+    /**
+     * Returns the resident set size of the process in bytes, or -1 if it cannot be read (e.g., non-Linux systems).
+     */
+    public static long residentBytes() {
+        try {
+            List<String> lines = Files.readAllLines(PROC_STATUS);
+            for (String line : lines) {
+                if (line.startsWith("VmRSS:")) {
+                    // Format: "VmRSS:    123456 kB"
+                    String[] parts = line.trim().split("\\s+");
+                    return Long.parseLong(parts[1]) * 1024L;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Not available on this platform
+        }
+        return -1;
+    }
+
+    /**
+     * Formats a byte count in MB for log output.
+     */
+    public static String format(long bytes) {
+        if (bytes < 0) {
+            return "n/a";
+        }
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+}
@@ -31,36 +31,36 @@ public class QueryEngine {
         String modelPath = args[1]+"/model.onnx";
         String vocabPath = args[1]+"/vocab.txt";
 
-        // Instantiate the MpnetEmbeddingEngine
-        MpnetEmbeddingEngine engine = new MpnetEmbeddingEngine(
+        // Instantiate the MpnetEmbeddingEngine (closed at the end to release the ONNX Runtime session)
+        try (MpnetEmbeddingEngine engine = new MpnetEmbeddingEngine(
                 Paths.get(modelPath),
                 Paths.get(vocabPath)
-        );
+        )) {
+            // Create the EmbeddingChecker using the engine and the list of documents
+            EmbeddingChecker checker = new EmbeddingChecker(engine, storedDocs);
 
-        // Create the EmbeddingChecker using the engine and the list of documents
-        EmbeddingChecker checker = new EmbeddingChecker(engine, storedDocs);
+            // Execute the check method to obtain the ranking
+            List<DocumentRanking> ranking = checker.check(query);
 
-        // Execute the check method to obtain the ranking
-        List<DocumentRanking> ranking = checker.check(query);
+            if (ranking.isEmpty()) {
+                System.out.println("No documents found in the embeddings directory.");
+                return;
+            }
 
-        if (ranking.isEmpty()) {
-            System.out.println("No documents found in the embeddings directory.");
-            return;
-        }
-
-        // Get the top-1 (first in the ranking)
-        DocumentRanking topDoc = ranking.get(0);
+            // Get the top-1 (first in the ranking)
+            DocumentRanking topDoc = ranking.get(0);
 
-        System.out.println("Query: " + query);
-        System.out.println("Most related document: " + topDoc.getDocument().getDocId());
-        System.out.printf("Cosine similarity: %.4f%n", topDoc.getScore());
+            System.out.println("Query: " + query);
+            System.out.println("Most related document: " + topDoc.getDocument().getDocId());
+            System.out.printf("Cosine similarity: %.4f%n", topDoc.getScore());
+        }
     }
 
     /**
      * Reads all .json files from the directory, deserializing them as EmbeddingJson (filename + embeddings).
      * Then, creates a DocumentEmbedding for each object.
      */
-    private static List<DocumentEmbedding> loadEmbeddingsFromDirectory(String dirPath) throws IOException {
+    static List<DocumentEmbedding> loadEmbeddingsFromDirectory(String dirPath) throws IOException {
         List<DocumentEmbedding> docs = new ArrayList<>();
         File dir = new File(dirPath);
         if (!dir.isDirectory()) {
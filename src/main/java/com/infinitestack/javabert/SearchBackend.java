@@ -0,0 +1,31 @@
+package com.infinitestack.javabert;
+
+import java.util.List;
+
+/**
+ * A searchable index over precomputed document embeddings.
+ * Implementations may be exact (brute-force scan) or approximate/compressed; {@link SearchBenchmark}
+ * compares them against the exact ranking.
+ */
+public interface SearchBackend {
+
+    /**
+     * Short name used in reports (e.g., "exact", "int8").
+     */
+    String getName();
+
+    /**
+     * Returns the k documents most similar to the query embedding, sorted by similarity (descending).
+     * Only the document ID and the score are guaranteed: backends that do not keep the float vectors
+     * (e.g., {@link Int8SearchBackend}) return documents with a null embedding.
+     *
+     * @param queryEmbedding Embedding of the query
+     * @param k              Number of documents to return
+     */
+    List<DocumentRanking> search(float[] queryEmbedding, int k);
+
+    /**
+     * Estimated memory held by the index, in bytes.
+     */
+    long getMemoryFootprint();
+}
@@ -0,0 +1,328 @@
+package com.infinitestack.javabert;
+
+import ai.djl.MalformedModelException;
+import ai.djl.repository.zoo.ModelNotFoundException;
+import ai.djl.translate.TranslateException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Macro-benchmark for the search backends.
+ * Builds every available {@link SearchBackend} from the same embedding set, replays a query set at a fixed
+ * concurrency and reports throughput, p50/p99 latency, memory footprint, build time and recall@k against
+ * the exact brute-force ranking ({@link EmbeddingChecker}).
+ *
+ * With "synthetic" as source, clustered random vectors are generated, so it runs without a model (e.g., in CI).
+ * Synthetic data is configured with system properties: bench.docs, bench.dim, bench.clusters, bench.queries
+ * (positive integers), bench.noise (non-negative) and bench.seed.
+ */
+public class SearchBenchmark {
+
+    public static void main(String[] args) throws IOException, TranslateException, ModelNotFoundException,
+            MalformedModelException, InterruptedException, ExecutionException {
+        if (args.length < 2) {
+            printUsage();
+            System.exit(1);
+        }
+
+        int k = args.length > 2 ? parsePositive(args[2]) : 10;
+        int concurrency = args.length > 3 ? parsePositive(args[3]) : 4;
+        if (k <= 0 || concurrency <= 0) {
+            System.err.println("k and concurrency must be positive integers.");
+            printUsage();
+            System.exit(1);
+        }
+        int numDocs = parsePositive(System.getProperty("bench.docs", "10000"));
+        int dim = parsePositive(System.getProperty("bench.dim", "768"));
+        int numClusters = parsePositive(System.getProperty("bench.clusters", "32"));
+        int numQueries = parsePositive(System.getProperty("bench.queries", "1000"));
+        float noise = parseNoise(System.getProperty("bench.noise", "0.5"));
+        if (numDocs <= 0 || dim <= 0 || numClusters <= 0 || numQueries <= 0 || noise < 0) {
+            System.err.println("bench.docs, bench.dim, bench.clusters and bench.queries must be positive integers, "
+                    + "bench.noise a non-negative number.");
+            printUsage();
+            System.exit(1);
+        }
+        Random random = new Random(Long.getLong("bench.seed", 42L));
+
+        // 1) Load or generate the document embeddings
+        List<DocumentEmbedding> docs;
+        if ("synthetic".equals(args[0])) {
+            docs = syntheticDocuments(numDocs, dim, numClusters, noise, random);
+        } else {
+            docs = QueryEngine.loadEmbeddingsFromDirectory(args[0]);
+        }
+        if (docs.isEmpty()) {
+            System.err.println("No document embeddings available.");
+            System.exit(1);
+        }
+
+        // 2) Load or generate the query embeddings
+        List<float[]> queries;
+        if ("synthetic".equals(args[1])) {
+            queries = syntheticQueries(docs, numQueries, noise, random);
+        } else if (args[1].toLowerCase().endsWith(".txt")) {
+            if (args.length < 5) {
+                System.err.println("A folder with the ONNX model is required to embed text queries.");
+                System.exit(1);
+            }
+            queries = embedQueries(args[1], args[4]);
+        } else {
+            queries = new ArrayList<>();
+            for (DocumentEmbedding query : QueryEngine.loadEmbeddingsFromDirectory(args[1])) {
+                queries.add(query.getEmbedding());
+            }
+        }
+        if (queries.isEmpty()) {
+            System.err.println("No queries available.");
+            System.exit(1);
+        }
+        int docDim = docs.get(0).getEmbedding().length;
+        if (queries.get(0).length != docDim) {
+            System.err.println("Query dimension (" + queries.get(0).length + ") does not match the document dimension ("
+                    + docDim + "): documents and queries must be embedded with the same model.");
+            System.exit(1);
+        }
+
+        System.out.printf("Documents: %d, dimension: %d, queries: %d, k: %d, concurrency: %d%n",
+                docs.size(), docDim, queries.size(), k, concurrency);
+
+        // 3) Reference ranking for recall@k, from a separate exact instance (not one of the measured backends)
+        EmbeddingChecker reference = new EmbeddingChecker(docs);
+        List<Set<String>> groundTruth = new ArrayList<>(queries.size());
+        for (float[] query : queries) {
+            groundTruth.add(docIds(reference.search(query, k)));
+        }
+
+        List<Function<List<DocumentEmbedding>, SearchBackend>> factories = List.of(
+                EmbeddingChecker::new,
+                Int8SearchBackend::new
+        );
+
+        List<BackendResult> results = new ArrayList<>();
+        for (Function<List<DocumentEmbedding>, SearchBackend> factory : factories) {
+            long start = System.nanoTime();
+            SearchBackend backend = factory.apply(docs);
+            long buildNanos = System.nanoTime() - start;
+
+            results.add(run(backend, buildNanos, queries, groundTruth, k, concurrency));
+        }
+
+        // 4) Report
+        System.out.printf("%-8s %12s %10s %10s %12s %12s %10s%n",
+                "backend", "qps", "p50 ms", "p99 ms", "memory MB", "build ms", "recall@" + k);
+        for (BackendResult r : results) {
+            System.out.printf("%-8s %12.1f %10.3f %10.3f %12.1f %12.1f %10.4f%n",
+                    r.name, r.qps, r.p50Nanos / 1e6, r.p99Nanos / 1e6,
+                    r.memoryBytes / (1024.0 * 1024.0), r.buildNanos / 1e6, r.recall);
+        }
+    }
+
+    /**
+     * Replays the queries against a backend with a fixed number of worker threads and collects the metrics.
+     */
+    private static BackendResult run(SearchBackend backend, long buildNanos, List<float[]> queries,
+                                     List<Set<String>> groundTruth, int k, int concurrency)
+            throws InterruptedException, ExecutionException {
+        // Warm-up (JIT) outside the measured window: one full pass, the same for every backend
+        for (float[] query : queries) {
+            backend.search(query, k);
+        }
+
+        // Only the IDs of each answer are kept, not the rankings
+        long[] latencies = new long[queries.size()];
+        List<Set<String>> answers = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            answers.add(null);
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (int w = 0; w < concurrency; w++) {
+            workers.add(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < queries.size()) {
+                    long start = System.nanoTime();
+                    List<DocumentRanking> answer = backend.search(queries.get(i), k);
+                    latencies[i] = System.nanoTime() - start;
+                    answers.set(i, docIds(answer));
+                }
+                return null;
+            });
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        try {
+            for (Future<Void> future : pool.invokeAll(workers)) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        long wallNanos = System.nanoTime() - start;
+
+        // Recall@k: fraction of the exact top-k found by the backend
+        double recallSum = 0;
+        for (int i = 0; i < queries.size(); i++) {
+            Set<String> expected = groundTruth.get(i);
+            if (expected.isEmpty()) {
+                recallSum += 1;
+                continue;
+            }
+            int hits = 0;
+            for (String docId : answers.get(i)) {
+                if (expected.contains(docId)) {
+                    hits++;
+                }
+            }
+            recallSum += (double) hits / expected.size();
+        }
+
+        Arrays.sort(latencies);
+        BackendResult result = new BackendResult();
+        result.name = backend.getName();
+        result.qps = queries.size() / (wallNanos / 1e9);
+        result.p50Nanos = percentile(latencies, 0.50);
+        result.p99Nanos = percentile(latencies, 0.99);
+        result.memoryBytes = backend.getMemoryFootprint();
+        result.buildNanos = buildNanos;
+        result.recall = recallSum / queries.size();
+        return result;
+    }
+
+    /**
+     * Generates documents around random cluster centers: center + gaussian noise.
+     */
+    private static List<DocumentEmbedding> syntheticDocuments(int numDocs, int dim, int numClusters, float noise, Random random) {
+        float[][] centers = new float[numClusters][dim];
+        for (float[] center : centers) {
+            for (int i = 0; i < dim; i++) {
+                center[i] = (float) random.nextGaussian();
+            }
+        }
+
+        List<DocumentEmbedding> docs = new ArrayList<>(numDocs);
+        for (int d = 0; d < numDocs; d++) {
+            float[] center = centers[random.nextInt(numClusters)];
+            float[] v = new float[dim];
+            for (int i = 0; i < dim; i++) {
+                v[i] = center[i] + noise * (float) random.nextGaussian();
+            }
+            docs.add(new DocumentEmbedding("doc-" + d, v));
+        }
+        return docs;
+    }
+
+    /**
+     * Generates queries as perturbed copies of random documents, so they fall inside the clusters of the data.
+     */
+    private static List<float[]> syntheticQueries(List<DocumentEmbedding> docs, int numQueries, float noise, Random random) {
+        List<float[]> queries = new ArrayList<>(numQueries);
+        for (int q = 0; q < numQueries; q++) {
+            float[] base = docs.get(random.nextInt(docs.size())).getEmbedding();
+
+            // Scale the noise to the magnitude of the vector components
+            float sumSq = 0f;
+            for (float x : base) {
+                sumSq += x * x;
+            }
+            float sigma = noise * (float) Math.sqrt(sumSq / base.length);
+
+            float[] v = new float[base.length];
+            for (int i = 0; i < base.length; i++) {
+                v[i] = base[i] + sigma * (float) random.nextGaussian();
+            }
+            queries.add(v);
+        }
+        return queries;
+    }
+
+    /**
+     * Reads one query per line and embeds them with the MPNet model (outside the measured window).
+     */
+    private static List<float[]> embedQueries(String queriesFile, String modelDir)
+            throws IOException, TranslateException, ModelNotFoundException, MalformedModelException {
+        List<String> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(Paths.get(queriesFile), StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                lines.add(line.toLowerCase());
+            }
+        }
+
+        try (MpnetEmbeddingEngine engine = new MpnetEmbeddingEngine(
+                Paths.get(modelDir + "/model.onnx"),
+                Paths.get(modelDir + "/vocab.txt")
+        )) {
+            return engine.getEmbeddings(lines);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: java -cp javaSentenceBertEmbedding.jar com.infinitestack.javabert.SearchBenchmark "
+                + "\"embeddings_directory|synthetic\" \"query_embeddings_directory|queries.txt|synthetic\" [k] [concurrency] [folder_with_onnx_model]");
+    }
+
+    /**
+     * Parses a positive integer argument, returning -1 if it is not one.
+     */
+    private static int parsePositive(String arg) {
+        try {
+            int value = Integer.parseInt(arg);
+            return value > 0 ? value : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Parses the synthetic noise level, returning -1 if it is not a finite non-negative number.
+     */
+    private static float parseNoise(String arg) {
+        try {
+            float value = Float.parseFloat(arg);
+            return Float.isFinite(value) && value >= 0 ? value : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static Set<String> docIds(List<DocumentRanking> ranking) {
+        Set<String> ids = new HashSet<>();
+        for (DocumentRanking r : ranking) {
+            ids.add(r.getDocument().getDocId());
+        }
+        return ids;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static class BackendResult {
+        String name;
+        double qps;
+        long p50Nanos;
+        long p99Nanos;
+        long memoryBytes;
+        long buildNanos;
+        double recall;
+    }
+}
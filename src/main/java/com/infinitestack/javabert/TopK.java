@@ -0,0 +1,61 @@
+package com.infinitestack.javabert;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.IntFunction;
+
+/**
+ * Bounded top-k collector shared by the search backends.
+ * Keeps only the k best (index, score) pairs in a min-heap, so a scan over N documents costs O(N log k)
+ * and allocates nothing for the documents that are discarded.
+ */
+class TopK {
+
+    private final int k;
+    private final PriorityQueue<Entry> heap;
+
+    TopK(int k) {
+        this.k = k;
+        this.heap = new PriorityQueue<>(Comparator.comparingDouble((Entry e) -> e.score));
+    }
+
+    /**
+     * Offers the score of the document at the given index.
+     */
+    void offer(int index, float score) {
+        if (heap.size() < k) {
+            heap.add(new Entry(index, score));
+        } else if (k > 0 && score > heap.peek().score) {
+            heap.poll();
+            heap.add(new Entry(index, score));
+        }
+    }
+
+    /**
+     * Returns the collected documents as a ranking, sorted by similarity (descending).
+     *
+     * @param documents Maps an index to its document
+     */
+    List<DocumentRanking> toRanking(IntFunction<DocumentEmbedding> documents) {
+        List<Entry> entries = new ArrayList<>(heap);
+        entries.sort(Comparator.comparingDouble((Entry e) -> e.score).reversed());
+
+        List<DocumentRanking> ranking = new ArrayList<>(entries.size());
+        for (Entry e : entries) {
+            ranking.add(new DocumentRanking(documents.apply(e.index), e.score));
+        }
+        return ranking;
+    }
+
+    private static class Entry {
+        final int index;
+        final float score;
+
+        Entry(int index, float score) {
+            this.index = index;
+            this.score = score;
+        }
+    }
+}